@@ -2,6 +2,7 @@ package com.example.qraphql.config;
 
 import com.example.qraphql.model.Post;
 import com.example.qraphql.repository.PostRepository;
+import com.example.qraphql.service.PostSummaryCache;
 import com.github.javafaker.Faker;
 import io.r2dbc.spi.ConnectionFactory;
 import jakarta.annotation.PostConstruct;
@@ -11,12 +12,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
 import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import reactor.core.publisher.Flux;
 
 @Configuration
+@EnableScheduling
 public class Config {
     @Autowired
     private PostRepository postRepository;
+    @Autowired
+    private PostSummaryCache postSummaryCache;
 
     @Bean
 	public ConnectionFactoryInitializer connectionFactoryInitializer(ConnectionFactory connectionFactory){
@@ -35,6 +40,7 @@ public class Config {
         postRepository.deleteAll()
                 .thenMany(postFlux.flatMap(post -> postRepository.save(post)))
                 .log()
+                .then(postSummaryCache.reconcile())
                 .subscribe();
     }
 }
@@ -1,6 +1,7 @@
 package com.example.qraphql.controller;
 
 import com.example.qraphql.dto.PostRequestDto;
+import com.example.qraphql.dto.PostSummaryDto;
 import com.example.qraphql.model.Post;
 import com.example.qraphql.service.PostService;
 import jakarta.validation.Valid;
@@ -29,6 +30,16 @@ public class PostController {
         return postService.getPost(id);
     }
 
+    @QueryMapping
+    public Mono<Long> getPostCount(){
+        return postService.getPostCount();
+    }
+
+    @QueryMapping
+    public Mono<PostSummaryDto> getPostSummary(){
+        return postService.getPostSummary();
+    }
+
     @MutationMapping
     public Mono<Post> createPost(@Argument(name = "createPostInput") @Valid PostRequestDto postRequestDto){
         return postService.createPost(Mono.just(postRequestDto));
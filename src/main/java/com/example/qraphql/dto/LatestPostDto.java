@@ -0,0 +1,16 @@
+package com.example.qraphql.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LatestPostDto {
+    private Integer id;
+    private String title;
+    private long totalCount;
+}
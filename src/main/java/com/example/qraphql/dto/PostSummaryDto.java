@@ -0,0 +1,17 @@
+package com.example.qraphql.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostSummaryDto {
+    private long postCount;
+    private List<String> latestTitles;
+}
@@ -1,9 +1,23 @@
 package com.example.qraphql.repository;
 
+import com.example.qraphql.dto.LatestPostDto;
 import com.example.qraphql.model.Post;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Repository
 public interface PostRepository extends ReactiveCrudRepository<Post,Integer> {
+    @Query("SELECT id, title, COUNT(*) OVER () AS total_count FROM posts ORDER BY id DESC LIMIT :limit")
+    Flux<LatestPostDto> findLatestWithTotalCount(int limit);
+
+    @Query("SELECT * FROM posts WHERE id < :id ORDER BY id DESC LIMIT :limit")
+    Flux<Post> findLatestBefore(int id, int limit);
+
+    @Modifying
+    @Query("DELETE FROM posts WHERE id = :id")
+    Mono<Integer> deletePostById(int id);
 }
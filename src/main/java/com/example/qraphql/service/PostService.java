@@ -1,6 +1,7 @@
 package com.example.qraphql.service;
 
 import com.example.qraphql.dto.PostRequestDto;
+import com.example.qraphql.dto.PostSummaryDto;
 import com.example.qraphql.exception.PostNotFoundException;
 import com.example.qraphql.model.Post;
 import com.example.qraphql.repository.PostRepository;
@@ -11,9 +12,11 @@ import reactor.core.publisher.Mono;
 @Service
 public class PostService {
     private final PostRepository postRepository;
+    private final PostSummaryCache postSummaryCache;
 
-    public PostService(PostRepository postRepository) {
+    public PostService(PostRepository postRepository, PostSummaryCache postSummaryCache) {
         this.postRepository = postRepository;
+        this.postSummaryCache = postSummaryCache;
     }
 
     public Flux<Post> getPosts(){
@@ -28,12 +31,19 @@ public class PostService {
     public Mono<Post> createPost(Mono<PostRequestDto> postRequestDtoMono){
         return postRequestDtoMono
                 .map(postRequestDto -> Post.builder().title(postRequestDto.getTitle()).body(postRequestDto.getBody()).build())
-                .flatMap(post -> postRepository.save(post));
+                .flatMap(post -> trackWrite(postRepository.save(post)
+                        .doOnNext(postSummaryCache::postCreated)));
     }
 
     public Mono<Post> deletePost(int id) {
         return getPost(id)
-                .flatMap(post -> postRepository.deleteById(id).thenReturn(post) );
+                .flatMap(post -> trackWrite(postRepository.deletePostById(id)
+                        .doOnNext(deletedRows -> {
+                            if (deletedRows == 1) {
+                                postSummaryCache.postDeleted(post);
+                            }
+                        }))
+                        .thenReturn(post));
     }
 
     public Mono<Post> updatePost(int id, PostRequestDto postRequestDto) {
@@ -43,6 +53,22 @@ public class PostService {
                     post.setBody(postRequestDto.getBody());
                     return post;
                 })
-                .flatMap(post -> postRepository.save(post));
+                .flatMap(post -> postRepository.save(post))
+                .doOnNext(postSummaryCache::postUpdated);
+    }
+
+    public Mono<Long> getPostCount(){
+        return Mono.fromSupplier(postSummaryCache::getPostCount);
+    }
+
+    public Mono<PostSummaryDto> getPostSummary(){
+        return Mono.fromSupplier(postSummaryCache::getPostSummary);
+    }
+
+    private <T> Mono<T> trackWrite(Mono<T> write){
+        return Mono.defer(() -> {
+            postSummaryCache.writeStarted();
+            return write.doFinally(signal -> postSummaryCache.writeFinished());
+        });
     }
 }
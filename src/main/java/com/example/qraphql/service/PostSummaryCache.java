@@ -0,0 +1,224 @@
+package com.example.qraphql.service;
+
+import com.example.qraphql.dto.LatestPostDto;
+import com.example.qraphql.dto.PostSummaryDto;
+import com.example.qraphql.model.Post;
+import com.example.qraphql.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory post count and latest titles, so summary queries never hit the database.
+ * Kept current by {@link PostService} on every write and reconciled periodically against Postgres.
+ * <p>
+ * Database syncs run one at a time. A sync result is only applied if no write started or
+ * finished while it was loading, otherwise it is reloaded with a backoff, so writes are never
+ * overwritten. A sync that keeps losing to writes is retried once the pending writes settle.
+ */
+@Slf4j
+@Component
+public class PostSummaryCache {
+    private static final int MAX_SYNC_ATTEMPTS = 3;
+    private static final Duration SYNC_RETRY_BACKOFF = Duration.ofMillis(100);
+
+    private final PostRepository postRepository;
+    private final int latestTitlesLimit;
+    private final AtomicLong postCount = new AtomicLong();
+    private final ConcurrentSkipListMap<Integer, String> latestTitles = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    private final AtomicLong writeGeneration = new AtomicLong();
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private final AtomicBoolean syncInFlight = new AtomicBoolean();
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+    private final AtomicBoolean refillRequested = new AtomicBoolean();
+    private final AtomicBoolean reconcileDeferred = new AtomicBoolean();
+    private final AtomicBoolean refillDeferred = new AtomicBoolean();
+
+    public PostSummaryCache(PostRepository postRepository,
+                            @Value("${posts.summary.latest-titles-limit:5}") int latestTitlesLimit) {
+        this.postRepository = postRepository;
+        this.latestTitlesLimit = latestTitlesLimit;
+    }
+
+    public long getPostCount(){
+        return postCount.get();
+    }
+
+    public PostSummaryDto getPostSummary(){
+        return PostSummaryDto.builder()
+                .postCount(postCount.get())
+                .latestTitles(new ArrayList<>(latestTitles.values()))
+                .build();
+    }
+
+    public synchronized void writeStarted(){
+        pendingWrites.incrementAndGet();
+        writeGeneration.incrementAndGet();
+    }
+
+    public void writeFinished(){
+        if (pendingWrites.decrementAndGet() == 0) {
+            syncIfRequested();
+        }
+    }
+
+    public synchronized void postCreated(Post post){
+        writeGeneration.incrementAndGet();
+        postCount.incrementAndGet();
+        latestTitles.put(post.getId(), post.getTitle());
+        trimLatestTitles();
+    }
+
+    public synchronized void postUpdated(Post post){
+        if (latestTitles.replace(post.getId(), post.getTitle()) != null) {
+            writeGeneration.incrementAndGet();
+        }
+    }
+
+    public void postDeleted(Post post){
+        boolean removedFromWindow;
+        synchronized (this) {
+            writeGeneration.incrementAndGet();
+            postCount.decrementAndGet();
+            removedFromWindow = latestTitles.remove(post.getId()) != null;
+        }
+        if (removedFromWindow) {
+            // an older post has to move up into the window, which only the database knows about
+            refillRequested.set(true);
+            sync().subscribe();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${posts.summary.reconcile-interval-ms:60000}",
+            initialDelayString = "${posts.summary.reconcile-interval-ms:60000}")
+    public void scheduledReconcile(){
+        reconcile().block();
+    }
+
+    public Mono<Void> reconcile(){
+        return Mono.defer(() -> {
+            reconcileRequested.set(true);
+            return sync();
+        });
+    }
+
+    private Mono<Void> sync(){
+        return Mono.defer(() -> {
+            if (!syncInFlight.compareAndSet(false, true)) {
+                return Mono.empty();
+            }
+            return drainSyncRequests()
+                    .doOnError(ex -> log.error("Post summary sync failed : ", ex))
+                    .onErrorResume(ex -> Mono.empty())
+                    .doFinally(signal -> {
+                        syncInFlight.set(false);
+                        if (reconcileDeferred.getAndSet(false)) {
+                            reconcileRequested.set(true);
+                        }
+                        if (refillDeferred.getAndSet(false)) {
+                            refillRequested.set(true);
+                        }
+                        if (pendingWrites.get() == 0) {
+                            syncIfRequested();
+                        }
+                    });
+        });
+    }
+
+    private void syncIfRequested(){
+        if (reconcileRequested.get() || refillRequested.get()) {
+            sync().subscribe();
+        }
+    }
+
+    private Mono<Void> drainSyncRequests(){
+        return Mono.defer(() -> {
+            if (reconcileRequested.getAndSet(false)) {
+                return attemptSync(() -> postRepository.findLatestWithTotalCount(latestTitlesLimit).collectList(), this::applySnapshot, 1)
+                        .doOnNext(applied -> deferIfNotApplied(applied, reconcileDeferred, "reconciliation"))
+                        .then(drainSyncRequests());
+            }
+            if (refillRequested.getAndSet(false)) {
+                return attemptSync(this::loadMissingTitles, this::applyMissingTitles, 1)
+                        .doOnNext(applied -> deferIfNotApplied(applied, refillDeferred, "newest titles refill"))
+                        .then(drainSyncRequests());
+            }
+            return Mono.empty();
+        });
+    }
+
+    private <T> Mono<Boolean> attemptSync(Supplier<Mono<T>> loader, BiPredicate<Long, T> applier, int attempt){
+        return Mono.defer(() -> {
+            long generation = writeGeneration.get();
+            return loader.get()
+                    .map(result -> applier.test(generation, result))
+                    .defaultIfEmpty(true)
+                    .flatMap(applied -> {
+                        if (applied || attempt >= MAX_SYNC_ATTEMPTS) {
+                            return Mono.just(applied);
+                        }
+                        return Mono.delay(SYNC_RETRY_BACKOFF.multipliedBy(attempt))
+                                .then(attemptSync(loader, applier, attempt + 1));
+                    });
+        });
+    }
+
+    private void deferIfNotApplied(boolean applied, AtomicBoolean deferred, String sync){
+        if (!applied) {
+            log.warn("Post summary {} kept losing to concurrent writes, retrying once they settle", sync);
+            deferred.set(true);
+        }
+    }
+
+    private synchronized boolean applySnapshot(long generation, List<LatestPostDto> latestPosts){
+        if (!isUnchangedSince(generation)) {
+            return false;
+        }
+        postCount.set(latestPosts.isEmpty() ? 0 : latestPosts.get(0).getTotalCount());
+        // replace the window with the snapshot without readers ever seeing it empty
+        latestPosts.forEach(post -> latestTitles.put(post.getId(), post.getTitle()));
+        latestTitles.keySet().retainAll(latestPosts.stream().map(LatestPostDto::getId).toList());
+        return true;
+    }
+
+    private Mono<List<Post>> loadMissingTitles(){
+        int missing = (int) Math.min(latestTitlesLimit, postCount.get()) - latestTitles.size();
+        if (missing <= 0) {
+            return Mono.empty();
+        }
+        int oldestCachedId = latestTitles.isEmpty() ? Integer.MAX_VALUE : latestTitles.lastKey();
+        return postRepository.findLatestBefore(oldestCachedId, missing).collectList();
+    }
+
+    private synchronized boolean applyMissingTitles(long generation, List<Post> olderPosts){
+        if (!isUnchangedSince(generation)) {
+            return false;
+        }
+        olderPosts.forEach(post -> latestTitles.put(post.getId(), post.getTitle()));
+        trimLatestTitles();
+        return true;
+    }
+
+    private boolean isUnchangedSince(long generation){
+        return writeGeneration.get() == generation && pendingWrites.get() == 0;
+    }
+
+    private void trimLatestTitles(){
+        while (latestTitles.size() > latestTitlesLimit) {
+            latestTitles.pollLastEntry();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.qraphql.controller;
 
+import com.example.qraphql.dto.PostSummaryDto;
 import com.example.qraphql.exception.PostNotFoundException;
 import com.example.qraphql.model.Post;
 import com.example.qraphql.repository.PostRepository;
@@ -111,6 +112,40 @@ class PostControllerTest {
                 });
     }
 
+    @Test
+    void testGetPostCountShouldReturnCount(){
+        String query = """
+        query {
+            getPostCount
+        }
+        """;
+        when(postService.getPostCount()).thenReturn(Mono.just(10L));
+        graphQlTester.document(query)
+                .execute()
+                .path("getPostCount")
+                .entity(Long.class)
+                .isEqualTo(10L);
+    }
+
+    @Test
+    void testGetPostSummaryShouldReturnSummary(){
+        String query = """
+        query {
+            getPostSummary {
+                postCount
+                latestTitles
+            }
+        }
+        """;
+        PostSummaryDto postSummary = PostSummaryDto.builder().postCount(2).latestTitles(List.of("Second", "First")).build();
+        when(postService.getPostSummary()).thenReturn(Mono.just(postSummary));
+        graphQlTester.document(query)
+                .execute()
+                .path("getPostSummary")
+                .entity(PostSummaryDto.class)
+                .isEqualTo(postSummary);
+    }
+
     @Test
     void testCreatePostWithBlankOrEmptyInputShouldReturnError() throws JsonProcessingException {
         String document = """
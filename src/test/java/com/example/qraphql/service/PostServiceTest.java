@@ -1,6 +1,7 @@
 package com.example.qraphql.service;
 
 import com.example.qraphql.dto.PostRequestDto;
+import com.example.qraphql.dto.PostSummaryDto;
 import com.example.qraphql.model.Post;
 import com.example.qraphql.repository.PostRepository;
 import com.github.javafaker.Faker;
@@ -21,12 +22,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
     @Mock
     private PostRepository postRepository;
+    @Mock
+    private PostSummaryCache postSummaryCache;
     @InjectMocks
     private PostService postService;
 
@@ -82,6 +88,7 @@ class PostServiceTest {
                     assertEquals(post.getBody(), createdPost.getBody());
                 })
                 .verifyComplete();
+        verify(postSummaryCache).postCreated(post);
     }
 
     @Test
@@ -89,6 +96,8 @@ class PostServiceTest {
         when(postRepository.findById(anyInt())).thenReturn(Mono.empty());
         StepVerifier.create(postService.deletePost(1))
                 .verifyError();
+        verify(postSummaryCache, never()).writeStarted();
+        verify(postSummaryCache, never()).postDeleted(any());
     }
 
     @Test
@@ -96,12 +105,26 @@ class PostServiceTest {
         Faker faker = new Faker();
         Post post = Post.builder().id(1).title(faker.lorem().fixedString(15)).body(faker.lorem().fixedString(255)).build();
         when(postRepository.findById(anyInt())).thenReturn(Mono.just(post));
-        when(postRepository.deleteById(anyInt())).thenReturn(Mono.empty());
+        when(postRepository.deletePostById(anyInt())).thenReturn(Mono.just(1));
         StepVerifier.create(postService.deletePost(post.getId()))
                 .consumeNextWith(deletedPost -> {
                     assertEquals(post.getId(), deletedPost.getId());
                 })
                 .verifyComplete();
+        verify(postSummaryCache).postDeleted(post);
+        verify(postSummaryCache).writeStarted();
+        verify(postSummaryCache).writeFinished();
+    }
+
+    @Test
+    void testDeletePostAlreadyDeletedConcurrentlyShouldNotUpdateSummary(){
+        Post post = Post.builder().id(1).title("This is the title").body("This is the body").build();
+        when(postRepository.findById(anyInt())).thenReturn(Mono.just(post));
+        when(postRepository.deletePostById(anyInt())).thenReturn(Mono.just(0));
+        StepVerifier.create(postService.deletePost(post.getId()))
+                .expectNext(post)
+                .verifyComplete();
+        verify(postSummaryCache, never()).postDeleted(any());
     }
 
     @Test
@@ -111,6 +134,7 @@ class PostServiceTest {
         PostRequestDto postRequestDto = PostRequestDto.builder().title(faker.lorem().fixedString(15)).body(faker.lorem().fixedString(255)).build();
         StepVerifier.create(postService.updatePost(1, postRequestDto))
                 .verifyError();
+        verifyNoInteractions(postSummaryCache);
     }
 
     @Test
@@ -129,6 +153,26 @@ class PostServiceTest {
                     assertEquals(updatedPost.getBody(), actualPost.getBody());
                 })
                 .verifyComplete();
+        verify(postSummaryCache).postUpdated(updatedPost);
+    }
+
+    @Test
+    void testGetPostCountShouldNotHitRepository(){
+        when(postSummaryCache.getPostCount()).thenReturn(10L);
+        StepVerifier.create(postService.getPostCount())
+                .expectNext(10L)
+                .verifyComplete();
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void testGetPostSummaryShouldNotHitRepository(){
+        PostSummaryDto postSummary = PostSummaryDto.builder().postCount(2).latestTitles(List.of("Second", "First")).build();
+        when(postSummaryCache.getPostSummary()).thenReturn(postSummary);
+        StepVerifier.create(postService.getPostSummary())
+                .expectNext(postSummary)
+                .verifyComplete();
+        verifyNoInteractions(postRepository);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.example.qraphql.service;
+
+import com.example.qraphql.dto.LatestPostDto;
+import com.example.qraphql.model.Post;
+import com.example.qraphql.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostSummaryCacheTest {
+    @Mock
+    private PostRepository postRepository;
+    private PostSummaryCache postSummaryCache;
+
+    @BeforeEach
+    void setUp(){
+        postSummaryCache = new PostSummaryCache(postRepository, 2);
+    }
+
+    @AfterEach
+    void tearDown(){
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    void testReconcileShouldLoadCountAndLatestTitles(){
+        when(postRepository.findLatestWithTotalCount(anyInt())).thenReturn(Flux.just(latestPost(3, "Third", 3), latestPost(2, "Second", 3)));
+        StepVerifier.create(postSummaryCache.reconcile())
+                .verifyComplete();
+        assertEquals(3L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Third", "Second"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testReconcileShouldDropNewestPostDeletedOutsideService(){
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        postSummaryCache.postCreated(Post.builder().id(2).title("Second").build());
+        postSummaryCache.postCreated(Post.builder().id(3).title("Third").build());
+        when(postRepository.findLatestWithTotalCount(anyInt())).thenReturn(Flux.just(latestPost(2, "Second", 2), latestPost(1, "First", 2)));
+        StepVerifier.create(postSummaryCache.reconcile())
+                .verifyComplete();
+        assertEquals(2L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Second", "First"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testReconcileOfEmptyTableShouldClearSummary(){
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        when(postRepository.findLatestWithTotalCount(anyInt())).thenReturn(Flux.empty());
+        StepVerifier.create(postSummaryCache.reconcile())
+                .verifyComplete();
+        assertEquals(0L, postSummaryCache.getPostCount());
+        assertEquals(List.of(), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testReconcileErrorShouldKeepPreviousState(){
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        when(postRepository.findLatestWithTotalCount(anyInt())).thenReturn(Flux.error(new RuntimeException("Connection refused")));
+        StepVerifier.create(postSummaryCache.reconcile())
+                .verifyComplete();
+        assertEquals(1L, postSummaryCache.getPostCount());
+        assertEquals(List.of("First"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testPostCreatedDuringReconcileShouldSurvive(){
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        Sinks.Many<LatestPostDto> staleSnapshot = Sinks.many().unicast().onBackpressureBuffer();
+        when(postRepository.findLatestWithTotalCount(anyInt()))
+                .thenReturn(staleSnapshot.asFlux())
+                .thenReturn(Flux.just(latestPost(4, "Fourth", 4), latestPost(3, "Third", 4)));
+        postSummaryCache.reconcile().subscribe();
+        postSummaryCache.postCreated(Post.builder().id(4).title("Fourth").build());
+        staleSnapshot.tryEmitNext(latestPost(3, "Third", 3));
+        staleSnapshot.tryEmitNext(latestPost(2, "Second", 3));
+        staleSnapshot.tryEmitComplete();
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+        assertEquals(4L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Fourth", "Third"), postSummaryCache.getPostSummary().getLatestTitles());
+        verify(postRepository, times(2)).findLatestWithTotalCount(anyInt());
+    }
+
+    @Test
+    void testReconcileShouldWaitForPendingWriteToSettle(){
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        when(postRepository.findLatestWithTotalCount(anyInt())).thenReturn(Flux.just(latestPost(2, "Second", 2), latestPost(1, "First", 2)));
+        postSummaryCache.writeStarted();
+        postSummaryCache.reconcile().subscribe();
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+        assertEquals(1L, postSummaryCache.getPostCount());
+        assertEquals(List.of("First"), postSummaryCache.getPostSummary().getLatestTitles());
+        verify(postRepository, times(3)).findLatestWithTotalCount(anyInt());
+
+        postSummaryCache.writeFinished();
+        assertEquals(2L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Second", "First"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testRefillShouldLandAfterPendingWriteSettles(){
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        postSummaryCache.postCreated(Post.builder().id(2).title("Second").build());
+        postSummaryCache.postCreated(Post.builder().id(5).title("Fifth").build());
+        when(postRepository.findLatestBefore(2, 1)).thenReturn(Flux.just(Post.builder().id(1).title("First").build()));
+        postSummaryCache.writeStarted();
+        postSummaryCache.postDeleted(Post.builder().id(5).title("Fifth").build());
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+        assertEquals(List.of("Second"), postSummaryCache.getPostSummary().getLatestTitles());
+        verify(postRepository, times(3)).findLatestBefore(2, 1);
+
+        postSummaryCache.writeFinished();
+        assertEquals(2L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Second", "First"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testConcurrentReconcilesShouldRunOneAtATime(){
+        Sinks.Many<LatestPostDto> firstSnapshot = Sinks.many().unicast().onBackpressureBuffer();
+        when(postRepository.findLatestWithTotalCount(anyInt()))
+                .thenReturn(firstSnapshot.asFlux())
+                .thenReturn(Flux.just(latestPost(2, "Second", 2), latestPost(1, "First", 2)));
+        postSummaryCache.reconcile().subscribe();
+        postSummaryCache.reconcile().subscribe();
+        verify(postRepository, times(1)).findLatestWithTotalCount(anyInt());
+        firstSnapshot.tryEmitNext(latestPost(1, "First", 1));
+        firstSnapshot.tryEmitComplete();
+        verify(postRepository, times(2)).findLatestWithTotalCount(anyInt());
+        assertEquals(2L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Second", "First"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testPostCreatedShouldIncrementCountAndKeepNewestTitles(){
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        postSummaryCache.postCreated(Post.builder().id(2).title("Second").build());
+        postSummaryCache.postCreated(Post.builder().id(3).title("Third").build());
+        assertEquals(3L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Third", "Second"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testPostUpdatedShouldReplaceTitle(){
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        postSummaryCache.postUpdated(Post.builder().id(1).title("Updated").build());
+        assertEquals(List.of("Updated"), postSummaryCache.getPostSummary().getLatestTitles());
+    }
+
+    @Test
+    void testPostDeletedOutsideWindowShouldNotHitRepository(){
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        postSummaryCache.postCreated(Post.builder().id(2).title("Second").build());
+        postSummaryCache.postCreated(Post.builder().id(3).title("Third").build());
+        postSummaryCache.postDeleted(Post.builder().id(1).title("First").build());
+        assertEquals(2L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Third", "Second"), postSummaryCache.getPostSummary().getLatestTitles());
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void testPostDeletedInsideWindowShouldDecrementCountAndRefillOnlyMissingTitles(){
+        postSummaryCache.postCreated(Post.builder().id(1).title("First").build());
+        postSummaryCache.postCreated(Post.builder().id(2).title("Second").build());
+        postSummaryCache.postCreated(Post.builder().id(5).title("Fifth").build());
+        when(postRepository.findLatestBefore(2, 1)).thenReturn(Flux.just(Post.builder().id(1).title("First").build()));
+        postSummaryCache.postDeleted(Post.builder().id(5).title("Fifth").build());
+        assertEquals(2L, postSummaryCache.getPostCount());
+        assertEquals(List.of("Second", "First"), postSummaryCache.getPostSummary().getLatestTitles());
+        verify(postRepository, never()).findLatestWithTotalCount(anyInt());
+    }
+
+    private LatestPostDto latestPost(int id, String title, long totalCount){
+        return LatestPostDto.builder().id(id).title(title).totalCount(totalCount).build();
+    }
+}